@@ -0,0 +1,60 @@
+import { decodeAppCatalog, isSystemAppAt } from '../src/services/appCatalog';
+
+describe('appCatalog', () => {
+  describe('isSystemAppAt', () => {
+    it('should read bits from the first word', () => {
+      expect(isSystemAppAt([0b101], 0)).toBe(true);
+      expect(isSystemAppAt([0b101], 1)).toBe(false);
+      expect(isSystemAppAt([0b101], 2)).toBe(true);
+    });
+
+    it('should read the sign bit of a word', () => {
+      expect(isSystemAppAt([1 << 31], 31)).toBe(true);
+      expect(isSystemAppAt([1 << 31], 30)).toBe(false);
+    });
+
+    it('should read bits from later words', () => {
+      expect(isSystemAppAt([0, 1], 32)).toBe(true);
+      expect(isSystemAppAt([0, 1], 33)).toBe(false);
+    });
+  });
+
+  describe('decodeAppCatalog', () => {
+    it('should return an empty list for an empty catalog', () => {
+      const result = decodeAppCatalog({
+        count: 0,
+        packageNames: [],
+        labels: [],
+        icons: [],
+        systemFlags: [],
+      });
+
+      expect(result).toEqual([]);
+    });
+
+    it('should rebuild apps from the columns in order', () => {
+      const result = decodeAppCatalog({
+        count: 2,
+        packageNames: ['com.example.calendar', 'com.android.settings'],
+        labels: ['Calendar', 'Settings'],
+        icons: ['aWNvbg==', null],
+        systemFlags: [0b10],
+      });
+
+      expect(result).toEqual([
+        {
+          packageName: 'com.example.calendar',
+          label: 'Calendar',
+          icon: 'aWNvbg==',
+          isSystemApp: false,
+        },
+        {
+          packageName: 'com.android.settings',
+          label: 'Settings',
+          icon: null,
+          isSystemApp: true,
+        },
+      ]);
+    });
+  });
+});
@@ -0,0 +1,152 @@
+type PerfServiceModule = typeof import('../src/services/perfService');
+
+const mockAddListener = jest.fn();
+const mockRemove = jest.fn();
+
+function createPerfModule() {
+  return {
+    getPerfStats: jest.fn().mockResolvedValue({ timers: {}, counters: {} }),
+    resetPerfStats: jest.fn().mockResolvedValue(true),
+    startPerfEvents: jest.fn(),
+    stopPerfEvents: jest.fn(),
+  };
+}
+
+function loadPerfService(
+  perfModule: ReturnType<typeof createPerfModule> | undefined,
+): PerfServiceModule {
+  let service: PerfServiceModule | undefined;
+  jest.isolateModules(() => {
+    jest.doMock('react-native', () => ({
+      NativeModules: { PerfModule: perfModule },
+      NativeEventEmitter: jest.fn().mockImplementation(() => ({
+        addListener: mockAddListener,
+      })),
+      Platform: { OS: 'android' },
+    }));
+    service = require('../src/services/perfService');
+  });
+  return service as PerfServiceModule;
+}
+
+describe('perfService', () => {
+  beforeEach(() => {
+    jest.clearAllMocks();
+    mockAddListener.mockReturnValue({ remove: mockRemove });
+  });
+
+  describe('addPerfStatsListener', () => {
+    it('should start native events for the first subscriber', () => {
+      const perfModule = createPerfModule();
+      const service = loadPerfService(perfModule);
+
+      service.addPerfStatsListener(jest.fn(), 5000);
+
+      expect(mockAddListener).toHaveBeenCalledTimes(1);
+      expect(mockAddListener).toHaveBeenCalledWith('onPerfStats', expect.any(Function));
+      expect(perfModule.startPerfEvents).toHaveBeenCalledWith(5000);
+    });
+
+    it('should restart native events at a smaller interval for a second subscriber', () => {
+      const perfModule = createPerfModule();
+      const service = loadPerfService(perfModule);
+
+      service.addPerfStatsListener(jest.fn(), 5000);
+      service.addPerfStatsListener(jest.fn(), 1000);
+
+      expect(mockAddListener).toHaveBeenCalledTimes(1);
+      expect(perfModule.startPerfEvents).toHaveBeenCalledTimes(2);
+      expect(perfModule.startPerfEvents).toHaveBeenLastCalledWith(1000);
+    });
+
+    it('should not restart native events for a larger interval', () => {
+      const perfModule = createPerfModule();
+      const service = loadPerfService(perfModule);
+
+      service.addPerfStatsListener(jest.fn(), 1000);
+      service.addPerfStatsListener(jest.fn(), 5000);
+
+      expect(perfModule.startPerfEvents).toHaveBeenCalledTimes(1);
+    });
+
+    it('should deliver events to every subscriber', () => {
+      const perfModule = createPerfModule();
+      const service = loadPerfService(perfModule);
+      const first = jest.fn();
+      const second = jest.fn();
+
+      service.addPerfStatsListener(first);
+      service.addPerfStatsListener(second);
+      const handler = mockAddListener.mock.calls[0][1];
+      const stats = { timers: {}, counters: { iconsEncoded: 3 } };
+      handler(stats);
+
+      expect(first).toHaveBeenCalledWith(stats);
+      expect(second).toHaveBeenCalledWith(stats);
+    });
+
+    it('should keep events running until the last subscriber leaves', () => {
+      const perfModule = createPerfModule();
+      const service = loadPerfService(perfModule);
+
+      const unsubscribeFirst = service.addPerfStatsListener(jest.fn(), 5000);
+      const unsubscribeSecond = service.addPerfStatsListener(jest.fn(), 1000);
+
+      unsubscribeSecond();
+      expect(perfModule.stopPerfEvents).not.toHaveBeenCalled();
+      expect(mockRemove).not.toHaveBeenCalled();
+      expect(perfModule.startPerfEvents).toHaveBeenLastCalledWith(5000);
+
+      unsubscribeFirst();
+      expect(perfModule.stopPerfEvents).toHaveBeenCalledTimes(1);
+      expect(mockRemove).toHaveBeenCalledTimes(1);
+    });
+
+    it('should ignore a second unsubscribe', () => {
+      const perfModule = createPerfModule();
+      const service = loadPerfService(perfModule);
+
+      const unsubscribe = service.addPerfStatsListener(jest.fn());
+      unsubscribe();
+      unsubscribe();
+
+      expect(perfModule.stopPerfEvents).toHaveBeenCalledTimes(1);
+      expect(mockRemove).toHaveBeenCalledTimes(1);
+    });
+
+    it('should start native events again after all subscribers left', () => {
+      const perfModule = createPerfModule();
+      const service = loadPerfService(perfModule);
+
+      service.addPerfStatsListener(jest.fn(), 5000)();
+      service.addPerfStatsListener(jest.fn(), 5000);
+
+      expect(mockAddListener).toHaveBeenCalledTimes(2);
+      expect(perfModule.startPerfEvents).toHaveBeenCalledTimes(2);
+    });
+  });
+
+  describe('without the native module', () => {
+    it('should return a no-op listener', () => {
+      const service = loadPerfService(undefined);
+
+      const unsubscribe = service.addPerfStatsListener(jest.fn());
+      unsubscribe();
+
+      expect(mockAddListener).not.toHaveBeenCalled();
+      expect(mockRemove).not.toHaveBeenCalled();
+    });
+
+    it('should resolve getPerfStats to null', async () => {
+      const service = loadPerfService(undefined);
+
+      await expect(service.getPerfStats()).resolves.toBeNull();
+    });
+
+    it('should resolve resetPerfStats to false', async () => {
+      const service = loadPerfService(undefined);
+
+      await expect(service.resetPerfStats()).resolves.toBe(false);
+    });
+  });
+});
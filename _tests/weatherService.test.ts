@@ -0,0 +1,130 @@
+type WeatherServiceModule = typeof import('../src/services/weatherService');
+
+const mockAddListener = jest.fn();
+const mockRemove = jest.fn();
+
+function loadWeatherService(
+  weatherModule: Record<string, unknown> | undefined,
+  os: string = 'android',
+): WeatherServiceModule {
+  let service: WeatherServiceModule | undefined;
+  jest.isolateModules(() => {
+    jest.doMock('react-native', () => ({
+      NativeModules: { WeatherModule: weatherModule },
+      NativeEventEmitter: jest.fn().mockImplementation(() => ({
+        addListener: mockAddListener,
+      })),
+      Platform: { OS: os },
+    }));
+    service = require('../src/services/weatherService');
+  });
+  return service as WeatherServiceModule;
+}
+
+describe('weatherService', () => {
+  beforeEach(() => {
+    jest.clearAllMocks();
+    mockAddListener.mockReturnValue({ remove: mockRemove });
+  });
+
+  describe('getInitialWeather', () => {
+    it('should return the cached temperature from module constants', () => {
+      const service = loadWeatherService({ cachedTemperature: 21, fetchedAt: 1000 });
+
+      expect(service.getInitialWeather()).toEqual({ temperature: 21, fetchedAt: 1000 });
+    });
+
+    it('should return null when nothing is cached', () => {
+      const service = loadWeatherService({});
+
+      expect(service.getInitialWeather()).toBeNull();
+    });
+
+    it('should return null when the native module is missing', () => {
+      const service = loadWeatherService(undefined);
+
+      expect(service.getInitialWeather()).toBeNull();
+    });
+
+    it('should return null on other platforms', () => {
+      const service = loadWeatherService({ cachedTemperature: 21, fetchedAt: 1000 }, 'ios');
+
+      expect(service.getInitialWeather()).toBeNull();
+    });
+  });
+
+  describe('addWeatherListener', () => {
+    it('should subscribe to weather updates', () => {
+      const service = loadWeatherService({});
+      const callback = jest.fn();
+
+      service.addWeatherListener(callback);
+
+      expect(mockAddListener).toHaveBeenCalledWith('onWeatherUpdated', callback);
+    });
+
+    it('should remove the subscription when unsubscribed', () => {
+      const service = loadWeatherService({});
+
+      const unsubscribe = service.addWeatherListener(jest.fn());
+      unsubscribe();
+
+      expect(mockRemove).toHaveBeenCalled();
+    });
+
+    it('should return a no-op when the native module is missing', () => {
+      const service = loadWeatherService(undefined);
+
+      const unsubscribe = service.addWeatherListener(jest.fn());
+      unsubscribe();
+
+      expect(mockAddListener).not.toHaveBeenCalled();
+      expect(mockRemove).not.toHaveBeenCalled();
+    });
+  });
+
+  describe('without the native module', () => {
+    it('should report native weather as unavailable', () => {
+      const service = loadWeatherService(undefined);
+
+      expect(service.isNativeWeatherAvailable()).toBe(false);
+    });
+
+    it('should resolve getCachedWeather to null', async () => {
+      const service = loadWeatherService(undefined);
+
+      await expect(service.getCachedWeather()).resolves.toBeNull();
+    });
+
+    it('should resolve startWeatherUpdates to false', async () => {
+      const service = loadWeatherService(undefined);
+
+      await expect(service.startWeatherUpdates()).resolves.toBe(false);
+    });
+  });
+
+  describe('fetchWeather', () => {
+    const originalFetch = global.fetch;
+
+    afterEach(() => {
+      global.fetch = originalFetch;
+    });
+
+    it('should return the rounded temperature', async () => {
+      const service = loadWeatherService(undefined);
+      global.fetch = jest.fn().mockResolvedValue({
+        ok: true,
+        json: () => Promise.resolve({ current: { temperature_2m: 18.6 } }),
+      }) as unknown as typeof fetch;
+
+      await expect(service.fetchWeather(52.52, 13.41)).resolves.toBe(19);
+    });
+
+    it('should return null when the request fails', async () => {
+      const service = loadWeatherService(undefined);
+      global.fetch = jest.fn().mockResolvedValue({ ok: false }) as unknown as typeof fetch;
+
+      await expect(service.fetchWeather(52.52, 13.41)).resolves.toBeNull();
+    });
+  });
+});
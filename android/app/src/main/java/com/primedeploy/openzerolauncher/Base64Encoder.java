@@ -0,0 +1,47 @@
+package com.primedeploy.openzerolauncher;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Standard padded base64 without line breaks (the android.util.Base64.NO_WRAP format),
+ * written into a caller-owned buffer so the encoder can reuse it across icons.
+ */
+final class Base64Encoder {
+    private static final byte[] ALPHABET =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+
+    private Base64Encoder() {
+    }
+
+    static int encodedLength(int length) {
+        return ((length + 2) / 3) * 4;
+    }
+
+    static void encode(byte[] src, int length, byte[] dst) {
+        int s = 0;
+        int d = 0;
+        int fullGroups = length - length % 3;
+        while (s < fullGroups) {
+            int bits = (src[s++] & 0xff) << 16 | (src[s++] & 0xff) << 8 | (src[s++] & 0xff);
+            dst[d++] = ALPHABET[(bits >>> 18) & 0x3f];
+            dst[d++] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[d++] = ALPHABET[(bits >>> 6) & 0x3f];
+            dst[d++] = ALPHABET[bits & 0x3f];
+        }
+
+        int remaining = length - fullGroups;
+        if (remaining == 1) {
+            int bits = (src[s] & 0xff) << 16;
+            dst[d++] = ALPHABET[(bits >>> 18) & 0x3f];
+            dst[d++] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[d++] = '=';
+            dst[d] = '=';
+        } else if (remaining == 2) {
+            int bits = (src[s] & 0xff) << 16 | (src[s + 1] & 0xff) << 8;
+            dst[d++] = ALPHABET[(bits >>> 18) & 0x3f];
+            dst[d++] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[d++] = ALPHABET[(bits >>> 6) & 0x3f];
+            dst[d] = '=';
+        }
+    }
+}
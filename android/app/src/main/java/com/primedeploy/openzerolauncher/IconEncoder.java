@@ -0,0 +1,158 @@
+package com.primedeploy.openzerolauncher;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes icon drawables as base64 PNG strings without per-icon scratch allocations.
+ * Each worker thread owns one encoder holding a small pool of bitmaps keyed by size,
+ * a reusable canvas and grow-only PNG and base64 buffers, so in steady state the only
+ * allocation per icon is the resulting String. Callers release the pools once a batch
+ * of icons is done so they are not held between catalog refreshes.
+ */
+class IconEncoder {
+    private static final int DEFAULT_ICON_SIZE = 48;
+    private static final int BITMAP_POOL_SIZE = 4;
+    private static final int INITIAL_BUFFER_SIZE = 32 * 1024;
+
+    private static final ThreadLocal<IconEncoder> LOCAL = new ThreadLocal<>();
+
+    private final Bitmap[] bitmapPool = new Bitmap[BITMAP_POOL_SIZE];
+    private int nextEvictionSlot = 0;
+    private final Canvas canvas = new Canvas();
+    private final PngBuffer pngBuffer = new PngBuffer(INITIAL_BUFFER_SIZE);
+    private byte[] base64Buffer = newBuffer(Base64Encoder.encodedLength(INITIAL_BUFFER_SIZE));
+
+    static IconEncoder get() {
+        IconEncoder encoder = LOCAL.get();
+        if (encoder == null) {
+            encoder = new IconEncoder();
+            LOCAL.set(encoder);
+        }
+        return encoder;
+    }
+
+    static void release() {
+        IconEncoder encoder = LOCAL.get();
+        if (encoder == null) {
+            return;
+        }
+        for (int i = 0; i < encoder.bitmapPool.length; i++) {
+            if (encoder.bitmapPool[i] != null) {
+                encoder.bitmapPool[i].recycle();
+                encoder.bitmapPool[i] = null;
+            }
+        }
+        LOCAL.remove();
+    }
+
+    private static byte[] newBuffer(int size) {
+        PerfStats.ICON_ENCODER_ALLOCATIONS.add(1);
+        return new byte[size];
+    }
+
+    String encode(Drawable drawable) {
+        if (drawable instanceof BitmapDrawable) {
+            Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
+            if (bitmap != null) {
+                return compress(bitmap);
+            }
+        }
+
+        int width = drawable.getIntrinsicWidth();
+        int height = drawable.getIntrinsicHeight();
+        if (width <= 0) width = DEFAULT_ICON_SIZE;
+        if (height <= 0) height = DEFAULT_ICON_SIZE;
+
+        Bitmap bitmap = obtainBitmap(width, height);
+        canvas.setBitmap(bitmap);
+        try {
+            drawable.setBounds(0, 0, width, height);
+            drawable.draw(canvas);
+        } finally {
+            canvas.setBitmap(null);
+        }
+        return compress(bitmap);
+    }
+
+    private Bitmap obtainBitmap(int width, int height) {
+        for (Bitmap pooled : bitmapPool) {
+            if (pooled != null && pooled.getWidth() == width && pooled.getHeight() == height) {
+                pooled.eraseColor(Color.TRANSPARENT);
+                return pooled;
+            }
+        }
+
+        int slot = -1;
+        for (int i = 0; i < bitmapPool.length; i++) {
+            if (bitmapPool[i] == null) {
+                slot = i;
+                break;
+            }
+        }
+        if (slot == -1) {
+            slot = nextEvictionSlot;
+            nextEvictionSlot = (nextEvictionSlot + 1) % bitmapPool.length;
+            bitmapPool[slot].recycle();
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        PerfStats.ICON_ENCODER_ALLOCATIONS.add(1);
+        bitmapPool[slot] = bitmap;
+        return bitmap;
+    }
+
+    private String compress(Bitmap bitmap) {
+        pngBuffer.reset();
+        if (!bitmap.compress(Bitmap.CompressFormat.PNG, 100, pngBuffer)) {
+            return null;
+        }
+
+        int encodedLength = Base64Encoder.encodedLength(pngBuffer.count);
+        if (base64Buffer.length < encodedLength) {
+            base64Buffer = newBuffer(Math.max(encodedLength, base64Buffer.length * 2));
+        }
+        Base64Encoder.encode(pngBuffer.buffer, pngBuffer.count, base64Buffer);
+        return new String(base64Buffer, 0, encodedLength, StandardCharsets.US_ASCII);
+    }
+
+    private static class PngBuffer extends OutputStream {
+        byte[] buffer;
+        int count;
+
+        PngBuffer(int initialSize) {
+            buffer = newBuffer(initialSize);
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > buffer.length) {
+                byte[] grown = newBuffer(Math.max(required, buffer.length * 2));
+                System.arraycopy(buffer, 0, grown, 0, count);
+                buffer = grown;
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+    }
+}
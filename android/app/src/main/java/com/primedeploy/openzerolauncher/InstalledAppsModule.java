@@ -9,13 +9,9 @@ import android.content.pm.LauncherApps;
 import android.content.Context;
 import android.os.UserHandle;
 import android.os.Process;
-import android.graphics.Bitmap;
-import android.graphics.Canvas;
-import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.provider.Settings;
-import android.util.Base64;
 import android.os.Build;
 import android.content.ComponentName;
 import android.app.role.RoleManager;
@@ -29,8 +25,11 @@ import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 
-import java.io.ByteArrayOutputStream;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 public class InstalledAppsModule extends ReactContextBaseJavaModule {
     private final ReactApplicationContext reactContext;
@@ -46,75 +45,136 @@ public class InstalledAppsModule extends ReactContextBaseJavaModule {
     }
 
     private String drawableToBase64(Drawable drawable) {
+        long start = PerfStats.ENCODE_ICON.start();
         try {
-            Bitmap bitmap;
-            if (drawable instanceof BitmapDrawable) {
-                bitmap = ((BitmapDrawable) drawable).getBitmap();
-            } else {
-                int width = drawable.getIntrinsicWidth();
-                int height = drawable.getIntrinsicHeight();
-                if (width <= 0) width = 48;
-                if (height <= 0) height = 48;
-                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
-                Canvas canvas = new Canvas(bitmap);
-                drawable.setBounds(0, 0, canvas.getWidth(), canvas.getHeight());
-                drawable.draw(canvas);
+            String encoded = IconEncoder.get().encode(drawable);
+            if (encoded != null) {
+                PerfStats.ICONS_ENCODED.add(1);
             }
-
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.PNG, 100, byteArrayOutputStream);
-            byte[] byteArray = byteArrayOutputStream.toByteArray();
-            return Base64.encodeToString(byteArray, Base64.NO_WRAP);
+            return encoded;
         } catch (Exception e) {
             return null;
+        } finally {
+            PerfStats.ENCODE_ICON.stop(start);
+        }
+    }
+
+    private String loadLabel(ResolveInfo resolveInfo, PackageManager pm) {
+        long start = PerfStats.LOAD_LABEL.start();
+        try {
+            return resolveInfo.loadLabel(pm).toString();
+        } finally {
+            PerfStats.LOAD_LABEL.stop(start);
         }
     }
 
+    private Drawable loadIcon(ResolveInfo resolveInfo, PackageManager pm) {
+        long start = PerfStats.LOAD_ICON.start();
+        try {
+            return resolveInfo.loadIcon(pm);
+        } finally {
+            PerfStats.LOAD_ICON.stop(start);
+        }
+    }
+
+    private static int payloadLength(String value) {
+        return value != null ? value.length() : 0;
+    }
+
     @ReactMethod
-    public void getInstalledApps(Promise promise) {
+    public void getInstalledAppsCatalog(Promise promise) {
+        long start = PerfStats.GET_INSTALLED_APPS_CATALOG.start();
         try {
             PackageManager pm = reactContext.getPackageManager();
             Intent mainIntent = new Intent(Intent.ACTION_MAIN, null);
             mainIntent.addCategory(Intent.CATEGORY_LAUNCHER);
 
             List<ResolveInfo> resolveInfos = pm.queryIntentActivities(mainIntent, 0);
-            WritableArray apps = Arguments.createArray();
+            List<CatalogEntry> entries = new ArrayList<>(resolveInfos.size());
 
             String myPackage = reactContext.getPackageName();
 
             for (ResolveInfo resolveInfo : resolveInfos) {
                 String packageName = resolveInfo.activityInfo.packageName;
-                
+
                 if (packageName.equals(myPackage)) {
                     continue;
                 }
 
-                WritableMap app = Arguments.createMap();
-                app.putString("packageName", packageName);
-                app.putString("label", resolveInfo.loadLabel(pm).toString());
-                
+                String label = loadLabel(resolveInfo, pm);
+
+                String icon;
                 try {
-                    Drawable icon = resolveInfo.loadIcon(pm);
-                    String iconBase64 = drawableToBase64(icon);
-                    app.putString("icon", iconBase64);
+                    icon = drawableToBase64(loadIcon(resolveInfo, pm));
                 } catch (Exception e) {
-                    app.putNull("icon");
+                    icon = null;
                 }
 
-                try {
-                    ApplicationInfo appInfo = pm.getApplicationInfo(packageName, 0);
-                    boolean isSystemApp = (appInfo.flags & ApplicationInfo.FLAG_SYSTEM) != 0;
-                    app.putBoolean("isSystemApp", isSystemApp);
-                } catch (Exception e) {
-                    app.putBoolean("isSystemApp", false);
+                ApplicationInfo appInfo = resolveInfo.activityInfo.applicationInfo;
+                boolean isSystemApp = appInfo != null && (appInfo.flags & ApplicationInfo.FLAG_SYSTEM) != 0;
+
+                entries.add(new CatalogEntry(packageName, label, icon, isSystemApp));
+            }
+
+            final Collator collator = Collator.getInstance();
+            Collections.sort(entries, (a, b) -> collator.compare(a.sortKey, b.sortKey));
+
+            int count = entries.size();
+            WritableArray packageNames = Arguments.createArray();
+            WritableArray labels = Arguments.createArray();
+            WritableArray icons = Arguments.createArray();
+            int[] systemFlags = new int[(count + 31) / 32];
+            long payloadChars = 0;
+
+            for (int i = 0; i < count; i++) {
+                CatalogEntry entry = entries.get(i);
+                payloadChars += payloadLength(entry.packageName) + payloadLength(entry.label) + payloadLength(entry.icon);
+                packageNames.pushString(entry.packageName);
+                labels.pushString(entry.label);
+                if (entry.icon != null) {
+                    icons.pushString(entry.icon);
+                } else {
+                    icons.pushNull();
+                }
+                if (entry.isSystemApp) {
+                    systemFlags[i >> 5] |= 1 << (i & 31);
                 }
+            }
 
-                apps.pushMap(app);
+            WritableArray flags = Arguments.createArray();
+            for (int word : systemFlags) {
+                flags.pushInt(word);
             }
 
-            promise.resolve(apps);
+            WritableMap catalog = Arguments.createMap();
+            catalog.putInt("count", count);
+            catalog.putArray("packageNames", packageNames);
+            catalog.putArray("labels", labels);
+            catalog.putArray("icons", icons);
+            catalog.putArray("systemFlags", flags);
+            PerfStats.BRIDGE_CHARS.add(payloadChars);
+            promise.resolve(catalog);
         } catch (Exception e) {
             promise.reject("ERROR", e.getMessage());
+        } finally {
+            IconEncoder.release();
+            PerfStats.GET_INSTALLED_APPS_CATALOG.stop(start);
+        }
+    }
+
+    private static class CatalogEntry {
+        final String packageName;
+        final String label;
+        final String sortKey;
+        final String icon;
+        final boolean isSystemApp;
+
+        CatalogEntry(String packageName, String label, String icon, boolean isSystemApp) {
+            this.packageName = packageName;
+            this.label = label;
+            this.sortKey = label.toLowerCase(Locale.ROOT);
+            this.icon = icon;
+            this.isSystemApp = isSystemApp;
         }
     }
 
@@ -164,6 +224,7 @@ public class InstalledAppsModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void getAppShortcuts(String packageName, Promise promise) {
+        long start = PerfStats.GET_APP_SHORTCUTS.start();
         try {
             if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N_MR1) {
                 promise.resolve(Arguments.createArray());
@@ -227,6 +288,9 @@ public class InstalledAppsModule extends ReactContextBaseJavaModule {
             promise.resolve(result);
         } catch (Exception e) {
             promise.resolve(Arguments.createArray());
+        } finally {
+            IconEncoder.release();
+            PerfStats.GET_APP_SHORTCUTS.stop(start);
         }
     }
 
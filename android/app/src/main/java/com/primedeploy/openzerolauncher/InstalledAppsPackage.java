@@ -16,6 +16,8 @@ public class InstalledAppsPackage implements ReactPackage {
         modules.add(new InstalledAppsModule(reactContext));
         modules.add(new NotificationModule(reactContext));
         modules.add(new AutostartModule(reactContext));
+        modules.add(new WeatherModule(reactContext));
+        modules.add(new PerfModule(reactContext));
         return modules;
     }
 
@@ -61,6 +61,7 @@ public class NotificationService extends NotificationListenerService {
     }
 
     private void updateNotificationCounts() {
+        long start = PerfStats.UPDATE_NOTIFICATION_COUNTS.start();
         try {
             StatusBarNotification[] activeNotifications = getActiveNotifications();
             Map<String, Integer> counts = new HashMap<>();
@@ -77,9 +78,12 @@ public class NotificationService extends NotificationListenerService {
 
             if (listener != null) {
                 listener.onNotificationCountsChanged(counts);
+                PerfStats.NOTIFICATION_EVENTS.add(1);
             }
         } catch (Exception e) {
             e.printStackTrace();
+        } finally {
+            PerfStats.UPDATE_NOTIFICATION_COUNTS.stop(start);
         }
     }
 
@@ -0,0 +1,102 @@
+package com.primedeploy.openzerolauncher;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+public class PerfModule extends ReactContextBaseJavaModule {
+    private static final int MIN_INTERVAL_MS = 1000;
+
+    private final ReactApplicationContext reactContext;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private Runnable metricsTask;
+
+    PerfModule(ReactApplicationContext context) {
+        super(context);
+        this.reactContext = context;
+    }
+
+    @Override
+    public String getName() {
+        return "PerfModule";
+    }
+
+    private void sendEvent(String eventName, WritableMap params) {
+        if (reactContext.hasActiveCatalystInstance()) {
+            reactContext
+                .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                .emit(eventName, params);
+        }
+    }
+
+    @ReactMethod
+    public void getPerfStats(Promise promise) {
+        try {
+            promise.resolve(PerfStats.snapshot());
+        } catch (Exception e) {
+            promise.reject("ERROR", e.getMessage());
+        }
+    }
+
+    @ReactMethod
+    public void resetPerfStats(Promise promise) {
+        try {
+            PerfStats.reset();
+            promise.resolve(true);
+        } catch (Exception e) {
+            promise.reject("ERROR", e.getMessage());
+        }
+    }
+
+    @ReactMethod
+    public void startPerfEvents(int intervalMs, Promise promise) {
+        final int interval = Math.max(intervalMs, MIN_INTERVAL_MS);
+        handler.post(() -> {
+            if (metricsTask != null) {
+                handler.removeCallbacks(metricsTask);
+            }
+            metricsTask = new Runnable() {
+                @Override
+                public void run() {
+                    sendEvent("onPerfStats", PerfStats.snapshot());
+                    handler.postDelayed(this, interval);
+                }
+            };
+            handler.postDelayed(metricsTask, interval);
+        });
+        promise.resolve(true);
+    }
+
+    @ReactMethod
+    public void stopPerfEvents(Promise promise) {
+        handler.post(() -> {
+            if (metricsTask != null) {
+                handler.removeCallbacks(metricsTask);
+                metricsTask = null;
+            }
+        });
+        promise.resolve(true);
+    }
+
+    @Override
+    public void invalidate() {
+        handler.removeCallbacksAndMessages(null);
+        super.invalidate();
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required for RN event emitter
+    }
+
+    @ReactMethod
+    public void removeListeners(Integer count) {
+        // Required for RN event emitter
+    }
+}
@@ -0,0 +1,149 @@
+package com.primedeploy.openzerolauncher;
+
+import android.os.SystemClock;
+import android.os.Trace;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Process-wide timers and counters for the native hot paths. Every timer also opens an
+ * android.os.Trace section so the same spans show up in Perfetto captures. Updates are
+ * lock-free; histogram bucket i counts samples shorter than 2^i microseconds.
+ */
+final class PerfStats {
+    private static final int HISTOGRAM_BUCKETS = 24;
+
+    static final Timer GET_INSTALLED_APPS_CATALOG = new Timer("getInstalledAppsCatalog");
+    static final Timer GET_APP_SHORTCUTS = new Timer("getAppShortcuts");
+    static final Timer LOAD_LABEL = new Timer("loadLabel");
+    static final Timer LOAD_ICON = new Timer("loadIcon");
+    static final Timer ENCODE_ICON = new Timer("drawableToBase64");
+    static final Timer UPDATE_NOTIFICATION_COUNTS = new Timer("updateNotificationCounts");
+    static final Timer WEATHER_REFRESH = new Timer("weatherRefresh");
+
+    static final Counter BRIDGE_CHARS = new Counter("bridgeChars");
+    static final Counter ICONS_ENCODED = new Counter("iconsEncoded");
+    static final Counter NOTIFICATION_EVENTS = new Counter("notificationEvents");
+    static final Counter ICON_ENCODER_ALLOCATIONS = new Counter("iconEncoderAllocations");
+
+    private static final Timer[] TIMERS = {
+        GET_INSTALLED_APPS_CATALOG,
+        GET_APP_SHORTCUTS,
+        LOAD_LABEL,
+        LOAD_ICON,
+        ENCODE_ICON,
+        UPDATE_NOTIFICATION_COUNTS,
+        WEATHER_REFRESH,
+    };
+
+    private static final Counter[] COUNTERS = {
+        BRIDGE_CHARS,
+        ICONS_ENCODED,
+        NOTIFICATION_EVENTS,
+        ICON_ENCODER_ALLOCATIONS,
+    };
+
+    private PerfStats() {
+    }
+
+    static WritableMap snapshot() {
+        WritableMap timers = Arguments.createMap();
+        for (Timer timer : TIMERS) {
+            timers.putMap(timer.name, timer.snapshot());
+        }
+
+        WritableMap counters = Arguments.createMap();
+        for (Counter counter : COUNTERS) {
+            counters.putDouble(counter.name, counter.value.get());
+        }
+
+        WritableMap result = Arguments.createMap();
+        result.putMap("timers", timers);
+        result.putMap("counters", counters);
+        return result;
+    }
+
+    static void reset() {
+        for (Timer timer : TIMERS) {
+            timer.reset();
+        }
+        for (Counter counter : COUNTERS) {
+            counter.value.set(0);
+        }
+    }
+
+    static final class Timer {
+        final String name;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        private Timer(String name) {
+            this.name = name;
+        }
+
+        long start() {
+            Trace.beginSection(name);
+            return SystemClock.elapsedRealtimeNanos();
+        }
+
+        void stop(long startNanos) {
+            long elapsed = SystemClock.elapsedRealtimeNanos() - startNanos;
+            Trace.endSection();
+
+            count.incrementAndGet();
+            totalNanos.addAndGet(elapsed);
+
+            long max = maxNanos.get();
+            while (elapsed > max && !maxNanos.compareAndSet(max, elapsed)) {
+                max = maxNanos.get();
+            }
+
+            long micros = elapsed / 1000;
+            int bucket = 64 - Long.numberOfLeadingZeros(micros);
+            histogram.incrementAndGet(Math.min(bucket, HISTOGRAM_BUCKETS - 1));
+        }
+
+        private WritableMap snapshot() {
+            WritableArray buckets = Arguments.createArray();
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                buckets.pushDouble(histogram.get(i));
+            }
+
+            WritableMap result = Arguments.createMap();
+            result.putDouble("count", count.get());
+            result.putDouble("totalMs", totalNanos.get() / 1e6);
+            result.putDouble("maxMs", maxNanos.get() / 1e6);
+            result.putArray("histogram", buckets);
+            return result;
+        }
+
+        private void reset() {
+            count.set(0);
+            totalNanos.set(0);
+            maxNanos.set(0);
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+        }
+    }
+
+    static final class Counter {
+        final String name;
+        private final AtomicLong value = new AtomicLong();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        void add(long delta) {
+            value.addAndGet(delta);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.primedeploy.openzerolauncher;
+
+import android.app.job.JobInfo;
+import android.app.job.JobParameters;
+import android.app.job.JobScheduler;
+import android.app.job.JobService;
+import android.content.ComponentName;
+import android.content.Context;
+import android.os.CancellationSignal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class WeatherJobService extends JobService {
+    private static final int PERIODIC_JOB_ID = 7301;
+    private static final int REFRESH_JOB_ID = 7302;
+    private static final long PERIOD_MS = WeatherProvider.STALE_AFTER_MS;
+    private static final long FLEX_MS = 10 * 60 * 1000;
+    private static final long BACKOFF_MS = 60 * 1000;
+
+    private static final AtomicBoolean refreshInFlight = new AtomicBoolean(false);
+
+    private final Map<Integer, CancellationSignal> cancellations = new ConcurrentHashMap<>();
+
+    public static void schedulePeriodic(Context context) {
+        JobScheduler scheduler = (JobScheduler) context.getSystemService(Context.JOB_SCHEDULER_SERVICE);
+        if (scheduler == null || scheduler.getPendingJob(PERIODIC_JOB_ID) != null) {
+            return;
+        }
+
+        JobInfo job = new JobInfo.Builder(PERIODIC_JOB_ID, new ComponentName(context, WeatherJobService.class))
+            .setPeriodic(PERIOD_MS, FLEX_MS)
+            .setRequiredNetworkType(JobInfo.NETWORK_TYPE_ANY)
+            .setBackoffCriteria(BACKOFF_MS, JobInfo.BACKOFF_POLICY_EXPONENTIAL)
+            .setPersisted(true)
+            .build();
+        scheduler.schedule(job);
+    }
+
+    public static void scheduleRefresh(Context context) {
+        JobScheduler scheduler = (JobScheduler) context.getSystemService(Context.JOB_SCHEDULER_SERVICE);
+        if (scheduler == null || scheduler.getPendingJob(REFRESH_JOB_ID) != null) {
+            return;
+        }
+
+        JobInfo job = new JobInfo.Builder(REFRESH_JOB_ID, new ComponentName(context, WeatherJobService.class))
+            .setRequiredNetworkType(JobInfo.NETWORK_TYPE_ANY)
+            .setBackoffCriteria(BACKOFF_MS, JobInfo.BACKOFF_POLICY_EXPONENTIAL)
+            .build();
+        scheduler.schedule(job);
+    }
+
+    @Override
+    public boolean onStartJob(final JobParameters params) {
+        final int jobId = params.getJobId();
+
+        // The periodic job may start up to FLEX_MS early, so it only skips data fetched
+        // within the last PERIOD_MS - FLEX_MS; the one-off refresh skips anything fresh.
+        long minAge = jobId == PERIODIC_JOB_ID ? PERIOD_MS - FLEX_MS : WeatherProvider.STALE_AFTER_MS;
+        if (!WeatherProvider.isOlderThan(this, minAge)) {
+            return false;
+        }
+
+        // Coalesce the periodic and one-off jobs: whichever starts second leaves the
+        // fetch to the one already running.
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return false;
+        }
+
+        final CancellationSignal signal = new CancellationSignal();
+        cancellations.put(jobId, signal);
+
+        new Thread(() -> {
+            WeatherProvider.RefreshResult result;
+            try {
+                result = WeatherProvider.refresh(getApplicationContext(), signal);
+            } finally {
+                cancellations.remove(jobId);
+                refreshInFlight.set(false);
+            }
+            if (!signal.isCanceled()) {
+                // Missing location or permission will not fix itself on retry, so only
+                // network and HTTP failures go through the backoff policy.
+                jobFinished(params, result == WeatherProvider.RefreshResult.FAILED);
+            }
+        }, "WeatherRefresh").start();
+        return true;
+    }
+
+    @Override
+    public boolean onStopJob(JobParameters params) {
+        CancellationSignal signal = cancellations.remove(params.getJobId());
+        if (signal != null) {
+            signal.cancel();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,108 @@
+package com.primedeploy.openzerolauncher;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class WeatherModule extends ReactContextBaseJavaModule implements WeatherProvider.WeatherListener {
+    private final ReactApplicationContext reactContext;
+
+    WeatherModule(ReactApplicationContext context) {
+        super(context);
+        this.reactContext = context;
+        WeatherProvider.setListener(this);
+    }
+
+    @Override
+    public String getName() {
+        return "WeatherModule";
+    }
+
+    @Override
+    public Map<String, Object> getConstants() {
+        Map<String, Object> constants = new HashMap<>();
+        if (WeatherProvider.hasCachedTemperature(reactContext)) {
+            constants.put("cachedTemperature", WeatherProvider.getCachedTemperature(reactContext));
+            constants.put("fetchedAt", (double) WeatherProvider.getFetchedAt(reactContext));
+        }
+        return constants;
+    }
+
+    @Override
+    public void onWeatherUpdated(int temperature, long fetchedAt) {
+        WritableMap params = Arguments.createMap();
+        params.putInt("temperature", temperature);
+        params.putDouble("fetchedAt", fetchedAt);
+        sendEvent("onWeatherUpdated", params);
+    }
+
+    private void sendEvent(String eventName, WritableMap params) {
+        if (reactContext.hasActiveCatalystInstance()) {
+            reactContext
+                .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                .emit(eventName, params);
+        }
+    }
+
+    @ReactMethod
+    public void getCachedWeather(Promise promise) {
+        try {
+            if (!WeatherProvider.hasCachedTemperature(reactContext)) {
+                promise.resolve(null);
+                return;
+            }
+            WritableMap result = Arguments.createMap();
+            result.putInt("temperature", WeatherProvider.getCachedTemperature(reactContext));
+            result.putDouble("fetchedAt", WeatherProvider.getFetchedAt(reactContext));
+            promise.resolve(result);
+        } catch (Exception e) {
+            promise.reject("ERROR", e.getMessage());
+        }
+    }
+
+    @ReactMethod
+    public void startWeatherUpdates(Promise promise) {
+        try {
+            WeatherJobService.schedulePeriodic(reactContext);
+            if (WeatherProvider.isStale(reactContext)) {
+                WeatherJobService.scheduleRefresh(reactContext);
+            }
+            promise.resolve(true);
+        } catch (Exception e) {
+            promise.reject("ERROR", e.getMessage());
+        }
+    }
+
+    @ReactMethod
+    public void setWeatherEndpoint(String endpoint, Promise promise) {
+        try {
+            WeatherProvider.setEndpointOverride(endpoint);
+            promise.resolve(true);
+        } catch (Exception e) {
+            promise.reject("ERROR", e.getMessage());
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        WeatherProvider.removeListener(this);
+        super.invalidate();
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required for RN event emitter
+    }
+
+    @ReactMethod
+    public void removeListeners(Integer count) {
+        // Required for RN event emitter
+    }
+}
@@ -0,0 +1,300 @@
+package com.primedeploy.openzerolauncher;
+
+import android.Manifest;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.pm.PackageManager;
+import android.location.Location;
+import android.location.LocationListener;
+import android.location.LocationManager;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.CancellationSignal;
+import android.os.Looper;
+
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cached current temperature backed by SharedPreferences. A refresh uses the newest
+ * last-known location, then a one-shot coarse network fix, then the coordinates of the
+ * previous successful refresh. The last step matters on Android 10+, where the launcher
+ * only holds foreground location permission and background jobs usually get no location.
+ */
+public class WeatherProvider {
+    private static final String PREFS_NAME = "weather_cache";
+    private static final String KEY_TEMPERATURE = "temperature";
+    private static final String KEY_FETCHED_AT = "fetchedAt";
+    private static final String KEY_LATITUDE = "latitude";
+    private static final String KEY_LONGITUDE = "longitude";
+    private static final String DEFAULT_ENDPOINT = "https://api.open-meteo.com/v1/forecast";
+    private static final int TIMEOUT_MS = 15000;
+    private static final long LOCATION_TIMEOUT_MS = 30000;
+
+    static final long STALE_AFTER_MS = 30 * 60 * 1000;
+
+    private static volatile WeatherListener listener;
+    private static volatile String endpointOverride;
+
+    public enum RefreshResult {
+        SUCCESS,
+        NO_LOCATION,
+        FAILED,
+        CANCELLED,
+    }
+
+    public interface WeatherListener {
+        void onWeatherUpdated(int temperature, long fetchedAt);
+    }
+
+    public static synchronized void setListener(WeatherListener l) {
+        listener = l;
+    }
+
+    public static synchronized void removeListener(WeatherListener l) {
+        if (listener == l) {
+            listener = null;
+        }
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    public static boolean hasCachedTemperature(Context context) {
+        return prefs(context).contains(KEY_TEMPERATURE);
+    }
+
+    public static int getCachedTemperature(Context context) {
+        return prefs(context).getInt(KEY_TEMPERATURE, 0);
+    }
+
+    public static long getFetchedAt(Context context) {
+        return prefs(context).getLong(KEY_FETCHED_AT, 0);
+    }
+
+    public static boolean isStale(Context context) {
+        return isOlderThan(context, STALE_AFTER_MS);
+    }
+
+    public static boolean isOlderThan(Context context, long ageMs) {
+        return System.currentTimeMillis() - getFetchedAt(context) >= ageMs;
+    }
+
+    public static void setEndpointOverride(String endpoint) {
+        if (!BuildConfig.DEBUG) {
+            throw new IllegalStateException("Weather endpoint can only be overridden in debug builds");
+        }
+        endpointOverride = endpoint == null || endpoint.isEmpty() ? null : endpoint;
+    }
+
+    public static RefreshResult refresh(Context context, CancellationSignal cancellation) {
+        long start = PerfStats.WEATHER_REFRESH.start();
+        try {
+            return refreshFromLocation(context, cancellation);
+        } finally {
+            PerfStats.WEATHER_REFRESH.stop(start);
+        }
+    }
+
+    private static boolean hasLocationPermission(Context context) {
+        return context.checkSelfPermission(Manifest.permission.ACCESS_COARSE_LOCATION)
+                == PackageManager.PERMISSION_GRANTED
+            || context.checkSelfPermission(Manifest.permission.ACCESS_FINE_LOCATION)
+                == PackageManager.PERMISSION_GRANTED;
+    }
+
+    private static RefreshResult refreshFromLocation(Context context, CancellationSignal cancellation) {
+        if (!hasLocationPermission(context)) {
+            return RefreshResult.NO_LOCATION;
+        }
+
+        SharedPreferences prefs = prefs(context);
+        double latitude;
+        double longitude;
+
+        Location location = getLocation(context, cancellation);
+        if (cancellation.isCanceled()) {
+            return RefreshResult.CANCELLED;
+        }
+        if (location != null) {
+            latitude = location.getLatitude();
+            longitude = location.getLongitude();
+        } else if (prefs.contains(KEY_LATITUDE) && prefs.contains(KEY_LONGITUDE)) {
+            latitude = prefs.getFloat(KEY_LATITUDE, 0);
+            longitude = prefs.getFloat(KEY_LONGITUDE, 0);
+        } else {
+            return RefreshResult.NO_LOCATION;
+        }
+
+        int temperature;
+        try {
+            temperature = fetchTemperature(latitude, longitude, cancellation);
+        } catch (Exception e) {
+            return cancellation.isCanceled() ? RefreshResult.CANCELLED : RefreshResult.FAILED;
+        }
+        if (cancellation.isCanceled()) {
+            return RefreshResult.CANCELLED;
+        }
+
+        long fetchedAt = System.currentTimeMillis();
+        prefs.edit()
+            .putInt(KEY_TEMPERATURE, temperature)
+            .putLong(KEY_FETCHED_AT, fetchedAt)
+            .putFloat(KEY_LATITUDE, Math.round(latitude * 100) / 100f)
+            .putFloat(KEY_LONGITUDE, Math.round(longitude * 100) / 100f)
+            .apply();
+
+        WeatherListener currentListener = listener;
+        if (currentListener != null) {
+            currentListener.onWeatherUpdated(temperature, fetchedAt);
+        }
+        return RefreshResult.SUCCESS;
+    }
+
+    private static Location getLocation(Context context, CancellationSignal cancellation) {
+        LocationManager locationManager = (LocationManager) context.getSystemService(Context.LOCATION_SERVICE);
+        if (locationManager == null) {
+            return null;
+        }
+
+        Location lastKnown = getLastKnownLocation(locationManager);
+        if (lastKnown != null) {
+            return lastKnown;
+        }
+        return requestCoarseFix(locationManager, cancellation);
+    }
+
+    private static Location getLastKnownLocation(LocationManager locationManager) {
+        Location best = null;
+        for (String provider : new String[] {
+            LocationManager.PASSIVE_PROVIDER,
+            LocationManager.NETWORK_PROVIDER,
+            LocationManager.GPS_PROVIDER,
+        }) {
+            try {
+                Location location = locationManager.getLastKnownLocation(provider);
+                if (location != null && (best == null || location.getTime() > best.getTime())) {
+                    best = location;
+                }
+            } catch (Exception e) {
+                // Provider not available
+            }
+        }
+        return best;
+    }
+
+    private static Location requestCoarseFix(LocationManager locationManager, CancellationSignal cancellation) {
+        try {
+            if (!locationManager.isProviderEnabled(LocationManager.NETWORK_PROVIDER)) {
+                return null;
+            }
+        } catch (Exception e) {
+            return null;
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Location[] result = new Location[1];
+        final CancellationSignal fixCancellation = new CancellationSignal();
+        cancellation.setOnCancelListener(() -> {
+            fixCancellation.cancel();
+            latch.countDown();
+        });
+
+        LocationListener singleUpdateListener = null;
+        try {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+                locationManager.getCurrentLocation(
+                    LocationManager.NETWORK_PROVIDER,
+                    fixCancellation,
+                    Runnable::run,
+                    location -> {
+                        result[0] = location;
+                        latch.countDown();
+                    }
+                );
+            } else {
+                singleUpdateListener = new LocationListener() {
+                    @Override
+                    public void onLocationChanged(Location location) {
+                        result[0] = location;
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onStatusChanged(String provider, int status, Bundle extras) {
+                    }
+
+                    @Override
+                    public void onProviderEnabled(String provider) {
+                    }
+
+                    @Override
+                    public void onProviderDisabled(String provider) {
+                        latch.countDown();
+                    }
+                };
+                locationManager.requestSingleUpdate(
+                    LocationManager.NETWORK_PROVIDER,
+                    singleUpdateListener,
+                    Looper.getMainLooper()
+                );
+            }
+
+            if (!latch.await(LOCATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                fixCancellation.cancel();
+            }
+            return result[0];
+        } catch (SecurityException | InterruptedException e) {
+            return null;
+        } finally {
+            cancellation.setOnCancelListener(null);
+            if (singleUpdateListener != null) {
+                locationManager.removeUpdates(singleUpdateListener);
+            }
+        }
+    }
+
+    private static int fetchTemperature(double latitude, double longitude, CancellationSignal cancellation)
+            throws Exception {
+        String endpoint = endpointOverride != null ? endpointOverride : DEFAULT_ENDPOINT;
+        URL url = new URL(String.format(
+            Locale.US,
+            "%s?latitude=%.2f&longitude=%.2f&current=temperature_2m",
+            endpoint, latitude, longitude
+        ));
+
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(TIMEOUT_MS);
+        connection.setReadTimeout(TIMEOUT_MS);
+        cancellation.setOnCancelListener(connection::disconnect);
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                throw new IllegalStateException("Weather request failed: " + connection.getResponseCode());
+            }
+
+            StringBuilder body = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    body.append(line);
+                }
+            }
+
+            JSONObject json = new JSONObject(body.toString());
+            return (int) Math.round(json.getJSONObject("current").getDouble("temperature_2m"));
+        } finally {
+            cancellation.setOnCancelListener(null);
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.primedeploy.openzerolauncher;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Base64EncoderTest {
+    private static String encode(byte[] src, int length) {
+        byte[] dst = new byte[Base64Encoder.encodedLength(length)];
+        Base64Encoder.encode(src, length, dst);
+        return new String(dst, StandardCharsets.US_ASCII);
+    }
+
+    private static void assertMatchesJdk(int length) {
+        byte[] src = new byte[length];
+        new Random(length).nextBytes(src);
+        assertEquals(Base64.getEncoder().encodeToString(src), encode(src, length));
+    }
+
+    @Test
+    public void encodesEmptyInput() {
+        assertEquals("", encode(new byte[0], 0));
+    }
+
+    @Test
+    public void encodesOneByteWithTwoPaddingChars() {
+        assertMatchesJdk(1);
+    }
+
+    @Test
+    public void encodesTwoBytesWithOnePaddingChar() {
+        assertMatchesJdk(2);
+    }
+
+    @Test
+    public void encodesFullGroupWithoutPadding() {
+        assertMatchesJdk(3);
+    }
+
+    @Test
+    public void encodesLargerInputs() {
+        for (int length = 4; length <= 64; length++) {
+            assertMatchesJdk(length);
+        }
+        assertMatchesJdk(32 * 1024 + 1);
+    }
+
+    @Test
+    public void encodesHighBytes() {
+        byte[] src = {(byte) 0xff, (byte) 0xfe, (byte) 0x80, (byte) 0x00, (byte) 0x7f};
+        assertEquals(Base64.getEncoder().encodeToString(src), encode(src, src.length));
+    }
+
+    @Test
+    public void encodesOnlyTheRequestedPrefix() {
+        byte[] src = "hello world".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Base64.getEncoder().encodeToString("hello".getBytes(StandardCharsets.US_ASCII)), encode(src, 5));
+    }
+}
@@ -37,10 +37,7 @@ export function useLauncher() {
   const loadApps = useCallback(async () => {
     try {
       setIsLoading(true);
-      const apps = await getInstalledApps();
-      const sortedApps = apps.sort((a, b) =>
-        a.label.toLowerCase().localeCompare(b.label.toLowerCase()),
-      );
+      const sortedApps = await getInstalledApps();
       setInstalledApps(sortedApps);
 
       const hiddenPackages = await getHiddenPackages();
@@ -1,24 +1,65 @@
 import { useState, useEffect } from "react";
 import * as Location from "expo-location";
-import { fetchWeather } from "../services/weatherService";
+import {
+  addWeatherListener,
+  fetchWeather,
+  getCachedWeather,
+  getInitialWeather,
+  isNativeWeatherAvailable,
+  startWeatherUpdates,
+} from "../services/weatherService";
 
 type WeatherState = {
   temperature: number | null;
   isLoading: boolean;
 };
 
+async function ensureLocationPermission(): Promise<boolean> {
+  const current = await Location.getForegroundPermissionsAsync();
+  if (current.status === "granted") {
+    return true;
+  }
+  const { status } = await Location.requestForegroundPermissionsAsync();
+  return status === "granted";
+}
+
 export function useWeather(): WeatherState {
-  const [temperature, setTemperature] = useState<number | null>(null);
-  const [isLoading, setIsLoading] = useState(true);
+  const [temperature, setTemperature] = useState<number | null>(
+    () => getInitialWeather()?.temperature ?? null,
+  );
+  const [isLoading, setIsLoading] = useState(temperature === null);
 
   useEffect(() => {
     let isMounted = true;
 
-    async function getWeather() {
+    const removeListener = addWeatherListener((weather) => {
+      if (isMounted) {
+        setTemperature(weather.temperature);
+        setIsLoading(false);
+      }
+    });
+
+    async function startNativeWeather() {
       try {
-        const { status } = await Location.requestForegroundPermissionsAsync();
+        if (await ensureLocationPermission()) {
+          await startWeatherUpdates();
+        }
+
+        const cached = await getCachedWeather();
+        if (isMounted && cached) {
+          setTemperature(cached.temperature);
+        }
+      } catch {
+      } finally {
+        if (isMounted) {
+          setIsLoading(false);
+        }
+      }
+    }
 
-        if (status !== "granted") {
+    async function getWeather() {
+      try {
+        if (!(await ensureLocationPermission())) {
           setIsLoading(false);
           return;
         }
@@ -43,12 +84,21 @@ export function useWeather(): WeatherState {
       }
     }
 
+    if (isNativeWeatherAvailable()) {
+      startNativeWeather();
+      return () => {
+        isMounted = false;
+        removeListener();
+      };
+    }
+
     getWeather();
 
     const interval = setInterval(getWeather, 30 * 60 * 1000);
 
     return () => {
       isMounted = false;
+      removeListener();
       clearInterval(interval);
     };
   }, []);
@@ -0,0 +1,21 @@
+import { AppCatalog, InstalledApp } from "../types";
+
+export function isSystemAppAt(systemFlags: number[], index: number): boolean {
+  return ((systemFlags[index >> 5] >>> (index & 31)) & 1) === 1;
+}
+
+export function decodeAppCatalog(catalog: AppCatalog): InstalledApp[] {
+  const { count, packageNames, labels, icons, systemFlags } = catalog;
+  const apps: InstalledApp[] = new Array(count);
+
+  for (let i = 0; i < count; i++) {
+    apps[i] = {
+      packageName: packageNames[i],
+      label: labels[i],
+      icon: icons[i] ?? null,
+      isSystemApp: isSystemAppAt(systemFlags, i),
+    };
+  }
+
+  return apps;
+}
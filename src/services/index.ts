@@ -31,7 +31,13 @@ export {
   isAppLocked,
   SYSTEM_LOCKED_PACKAGES,
 } from "./databaseService";
-export { fetchWeather } from "./weatherService";
+export {
+  fetchWeather,
+  getInitialWeather,
+  getCachedWeather,
+  startWeatherUpdates,
+  addWeatherListener,
+} from "./weatherService";
 export {
   isNotificationAccessEnabled,
   openNotificationAccessSettings,
@@ -39,4 +45,9 @@ export {
   refreshNotifications,
   addNotificationListener,
 } from "./notificationService";
+export {
+  getPerfStats,
+  resetPerfStats,
+  addPerfStatsListener,
+} from "./perfService";
 export { checkFirstLaunch, setFirstLaunchComplete } from "./storageService";
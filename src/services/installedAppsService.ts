@@ -5,6 +5,7 @@ import {
   Linking,
 } from "react-native";
 import { InstalledApp, AppShortcut } from "../types";
+import { decodeAppCatalog } from "./appCatalog";
 
 const { InstalledApps } = NativeModules;
 
@@ -13,7 +14,7 @@ export function getInstalledApps(): Promise<InstalledApp[]> {
     return Promise.resolve([]);
   }
 
-  return InstalledApps.getInstalledApps();
+  return InstalledApps.getInstalledAppsCatalog().then(decodeAppCatalog);
 }
 
 export function launchApp(packageName: string): Promise<boolean> {
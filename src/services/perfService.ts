@@ -0,0 +1,95 @@
+import { NativeModules, NativeEventEmitter, Platform } from "react-native";
+
+const { PerfModule } = NativeModules;
+
+export type PerfTimerStats = {
+  count: number;
+  totalMs: number;
+  maxMs: number;
+  histogram: number[];
+};
+
+export type PerfStats = {
+  timers: Record<string, PerfTimerStats>;
+  counters: Record<string, number>;
+};
+
+type PerfStatsListener = (stats: PerfStats) => void;
+
+type PerfStatsSubscriber = {
+  callback: PerfStatsListener;
+  intervalMs: number;
+};
+
+let eventEmitter: NativeEventEmitter | null = null;
+let subscribers: PerfStatsSubscriber[] = [];
+let subscription: { remove: () => void } | null = null;
+let activeIntervalMs: number | null = null;
+
+function getEventEmitter(): NativeEventEmitter | null {
+  if (Platform.OS !== "android" || !PerfModule) {
+    return null;
+  }
+  if (!eventEmitter) {
+    eventEmitter = new NativeEventEmitter(PerfModule);
+  }
+  return eventEmitter;
+}
+
+function syncNativeEvents() {
+  if (subscribers.length === 0) {
+    subscription?.remove();
+    subscription = null;
+    activeIntervalMs = null;
+    PerfModule.stopPerfEvents();
+    return;
+  }
+
+  const intervalMs = Math.min(...subscribers.map((s) => s.intervalMs));
+  if (intervalMs !== activeIntervalMs) {
+    activeIntervalMs = intervalMs;
+    PerfModule.startPerfEvents(intervalMs);
+  }
+}
+
+export function getPerfStats(): Promise<PerfStats | null> {
+  if (Platform.OS !== "android" || !PerfModule) {
+    return Promise.resolve(null);
+  }
+  return PerfModule.getPerfStats();
+}
+
+export function resetPerfStats(): Promise<boolean> {
+  if (Platform.OS !== "android" || !PerfModule) {
+    return Promise.resolve(false);
+  }
+  return PerfModule.resetPerfStats();
+}
+
+export function addPerfStatsListener(
+  callback: PerfStatsListener,
+  intervalMs: number = 5000,
+): () => void {
+  const emitter = getEventEmitter();
+  if (!emitter) {
+    return () => {};
+  }
+
+  const subscriber = { callback, intervalMs };
+  subscribers.push(subscriber);
+
+  if (!subscription) {
+    subscription = emitter.addListener("onPerfStats", (stats: PerfStats) => {
+      subscribers.forEach((s) => s.callback(stats));
+    });
+  }
+  syncNativeEvents();
+
+  return () => {
+    if (!subscribers.includes(subscriber)) {
+      return;
+    }
+    subscribers = subscribers.filter((s) => s !== subscriber);
+    syncNativeEvents();
+  };
+}
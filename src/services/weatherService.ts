@@ -1,9 +1,81 @@
+import { NativeModules, NativeEventEmitter, Platform } from "react-native";
+
+const { WeatherModule } = NativeModules;
+
 type WeatherResponse = {
   current: {
     temperature_2m: number;
   };
 };
 
+export type CachedWeather = {
+  temperature: number;
+  fetchedAt: number;
+};
+
+type WeatherListener = (weather: CachedWeather) => void;
+
+let eventEmitter: NativeEventEmitter | null = null;
+
+function getEventEmitter(): NativeEventEmitter | null {
+  if (Platform.OS !== "android" || !WeatherModule) {
+    return null;
+  }
+  if (!eventEmitter) {
+    eventEmitter = new NativeEventEmitter(WeatherModule);
+  }
+  return eventEmitter;
+}
+
+export function isNativeWeatherAvailable(): boolean {
+  return Platform.OS === "android" && !!WeatherModule;
+}
+
+export function getInitialWeather(): CachedWeather | null {
+  if (!isNativeWeatherAvailable()) {
+    return null;
+  }
+  const { cachedTemperature, fetchedAt } = WeatherModule;
+  if (typeof cachedTemperature !== "number") {
+    return null;
+  }
+  return { temperature: cachedTemperature, fetchedAt };
+}
+
+export function getCachedWeather(): Promise<CachedWeather | null> {
+  if (!isNativeWeatherAvailable()) {
+    return Promise.resolve(null);
+  }
+  return WeatherModule.getCachedWeather();
+}
+
+export function startWeatherUpdates(): Promise<boolean> {
+  if (!isNativeWeatherAvailable()) {
+    return Promise.resolve(false);
+  }
+  return WeatherModule.startWeatherUpdates();
+}
+
+export function setWeatherEndpoint(endpoint: string | null): Promise<boolean> {
+  if (!isNativeWeatherAvailable()) {
+    return Promise.resolve(false);
+  }
+  return WeatherModule.setWeatherEndpoint(endpoint);
+}
+
+export function addWeatherListener(callback: WeatherListener): () => void {
+  const emitter = getEventEmitter();
+  if (!emitter) {
+    return () => {};
+  }
+
+  const subscription = emitter.addListener("onWeatherUpdated", callback);
+
+  return () => {
+    subscription.remove();
+  };
+}
+
 export async function fetchWeather(
   latitude: number,
   longitude: number,
@@ -5,6 +5,14 @@ export type InstalledApp = {
   isSystemApp: boolean;
 };
 
+export type AppCatalog = {
+  count: number;
+  packageNames: string[];
+  labels: string[];
+  icons: (string | null)[];
+  systemFlags: number[];
+};
+
 export type AppShortcut = {
   id: string;
   packageName: string;